@@ -0,0 +1,147 @@
+package com.acgist.snail.benchmark;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.acgist.snail.net.torrent.bootstrap.TorrentStream.Allocation;
+import com.acgist.snail.system.config.SystemConfig;
+import com.acgist.snail.utils.FileUtils;
+
+/**
+ * <p>文件分配方式性能测试</p>
+ * <p>两个文件同时随机写入Piece，每次刷出缓存强制写入磁盘（防止延迟分配合并碎片），测试时间包含分配文件时间。</p>
+ * <p>每次测试创建新文件：使用单次执行模式，碎片数量（{@code filefrag}）输出到控制台。</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AllocationBenchmark {
+
+	/**
+	 * <p>文件大小</p>
+	 */
+	private static final long FILE_SIZE = 128L * SystemConfig.ONE_MB;
+	/**
+	 * <p>Piece长度</p>
+	 */
+	private static final int PIECE_LENGTH = 256 * SystemConfig.ONE_KB;
+	/**
+	 * <p>刷出缓存Piece数量：8M</p>
+	 */
+	private static final int FLUSH_SIZE = 32;
+	/**
+	 * <p>文件数量</p>
+	 */
+	private static final int FILE_COUNT = 2;
+	
+	/**
+	 * <p>文件分配方式</p>
+	 */
+	@Param({ "NONE", "SPARSE", "FULL" })
+	private String allocation;
+	
+	private byte[] bytes;
+	private Path folder;
+	private List<long[]> pieces;
+	private RandomAccessFile[] files;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		this.bytes = BenchmarkUtils.bytes(PIECE_LENGTH);
+		this.pieces = new ArrayList<>();
+		for (int index = 0; index < FILE_COUNT; index++) {
+			for (long pos = 0; pos < FILE_SIZE; pos += PIECE_LENGTH) {
+				this.pieces.add(new long[] { index, pos });
+			}
+		}
+		Collections.shuffle(this.pieces, BenchmarkUtils.random());
+	}
+	
+	@Setup(Level.Invocation)
+	public void setupFile() throws IOException {
+		this.folder = Files.createTempDirectory("snail-benchmark");
+		this.files = new RandomAccessFile[FILE_COUNT];
+		for (int index = 0; index < FILE_COUNT; index++) {
+			this.files[index] = new RandomAccessFile(this.folder.resolve("file-" + index).toFile(), "rw");
+		}
+	}
+	
+	@TearDown(Level.Invocation)
+	public void tearDownFile() throws IOException, InterruptedException {
+		final StringBuilder extents = new StringBuilder();
+		for (int index = 0; index < FILE_COUNT; index++) {
+			this.files[index].close();
+			extents.append(this.extents(this.folder.resolve("file-" + index))).append(" ");
+		}
+		System.out.println(this.allocation + " extents: " + extents.toString().trim());
+		FileUtils.delete(this.folder.toString());
+	}
+	
+	@Benchmark
+	public long write() throws IOException {
+		final Allocation allocation = Allocation.valueOfName(this.allocation);
+		for (RandomAccessFile file : this.files) {
+			long position = allocation.allocate(file, FILE_SIZE);
+			while(position < FILE_SIZE) {
+				position = allocation.fill(file.getChannel(), position, FILE_SIZE);
+			}
+		}
+		int count = 0;
+		for (long[] piece : this.pieces) {
+			this.files[(int) piece[0]].getChannel().write(ByteBuffer.wrap(this.bytes), piece[1]);
+			if(++count % FLUSH_SIZE == 0) {
+				for (RandomAccessFile file : this.files) {
+					file.getChannel().force(false);
+				}
+			}
+		}
+		long length = 0L;
+		for (RandomAccessFile file : this.files) {
+			file.getChannel().force(false);
+			length += file.length();
+		}
+		return length;
+	}
+	
+	/**
+	 * <p>获取文件碎片数量</p>
+	 * 
+	 * @param path 文件路径
+	 * 
+	 * @return 碎片数量：没有{@code filefrag}命令返回{@code -1}
+	 */
+	private String extents(Path path) throws InterruptedException {
+		try {
+			final Process process = new ProcessBuilder("filefrag", path.toString()).redirectErrorStream(true).start();
+			final String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+			process.waitFor();
+			// 格式：文件路径: 数量 extents found
+			return output.substring(output.lastIndexOf(':') + 1).trim().split(" ")[0];
+		} catch (IOException e) {
+			return "-1";
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.acgist.snail.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.acgist.snail.system.config.SystemConfig;
+import com.acgist.snail.system.exception.PacketSizeException;
+import com.acgist.snail.system.format.BEncodeDecoder;
+import com.acgist.snail.system.format.BEncodeEncoder;
+
+/**
+ * <p>B编码性能测试</p>
+ * <p>测试数据：种子文件（Piece数量决定数据大小）</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BEncodeBenchmark {
+
+	/**
+	 * <p>Piece数量</p>
+	 */
+	@Param({ "1024", "16384" })
+	private int pieceSize;
+	
+	private Map<String, Object> torrent;
+	private byte[] bytes;
+	private ByteBuffer buffer;
+	
+	@Setup
+	public void setup() {
+		this.torrent = BenchmarkUtils.torrent(this.pieceSize, 256 * SystemConfig.ONE_KB, 64);
+		this.bytes = BEncodeEncoder.encodeMap(this.torrent);
+		this.buffer = ByteBuffer.allocate(BEncodeEncoder.encodeSize(this.torrent));
+	}
+	
+	@Benchmark
+	public Map<String, Object> decode() throws PacketSizeException {
+		return BEncodeDecoder.newInstance(this.bytes).nextMap();
+	}
+	
+	@Benchmark
+	public byte[] encode() {
+		return BEncodeEncoder.encodeMap(this.torrent);
+	}
+	
+	/**
+	 * <p>直接编码：计算长度后写入缓冲</p>
+	 * 
+	 * @return 缓冲
+	 */
+	@Benchmark
+	public ByteBuffer encodeBuffer() {
+		this.buffer.clear();
+		return BEncodeEncoder.encode(this.torrent, this.buffer);
+	}
+
+}
@@ -0,0 +1,89 @@
+package com.acgist.snail.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.acgist.snail.pojo.bean.Torrent;
+import com.acgist.snail.pojo.bean.TorrentInfo;
+import com.acgist.snail.system.config.SystemConfig;
+
+/**
+ * <p>性能测试工具</p>
+ * <p>生成测试数据：使用固定随机种子保证每次测试数据相同</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+public final class BenchmarkUtils {
+
+	/**
+	 * <p>随机种子：{@value}</p>
+	 */
+	private static final long SEED = 1024L;
+	
+	private BenchmarkUtils() {
+	}
+	
+	/**
+	 * <p>创建随机数生成器</p>
+	 * 
+	 * @return 随机数生成器
+	 */
+	public static final Random random() {
+		return new Random(SEED);
+	}
+	
+	/**
+	 * <p>生成随机数据</p>
+	 * 
+	 * @param length 数据长度
+	 * 
+	 * @return 随机数据
+	 */
+	public static final byte[] bytes(int length) {
+		final byte[] bytes = new byte[length];
+		random().nextBytes(bytes);
+		return bytes;
+	}
+	
+	/**
+	 * <p>生成种子信息（B编码结构）</p>
+	 * <p>多文件种子：Piece Hash随机生成</p>
+	 * 
+	 * @param pieceSize Piece数量
+	 * @param pieceLength Piece长度
+	 * @param fileSize 文件数量
+	 * 
+	 * @return 种子信息
+	 */
+	public static final Map<String, Object> torrent(int pieceSize, long pieceLength, int fileSize) {
+		final long fileLength = pieceSize * pieceLength / fileSize;
+		final List<Object> files = new ArrayList<>(fileSize);
+		for (int index = 0; index < fileSize; index++) {
+			final Map<String, Object> file = new LinkedHashMap<>();
+			file.put(TorrentInfo.ATTR_LENGTH, fileLength);
+			file.put("path", List.of("folder", "file-" + index + ".bin"));
+			files.add(file);
+		}
+		final Map<String, Object> info = new LinkedHashMap<>();
+		info.put(TorrentInfo.ATTR_FILES, files);
+		info.put(TorrentInfo.ATTR_NAME, "snail-benchmark");
+		info.put(TorrentInfo.ATTR_PIECE_LENGTH, pieceLength);
+		info.put(TorrentInfo.ATTR_PIECES, bytes(pieceSize * SystemConfig.SHA1_HASH_LENGTH));
+		final Map<String, Object> torrent = new LinkedHashMap<>();
+		torrent.put(Torrent.ATTR_ANNOUNCE, "udp://tracker.acgist.com:6969/announce");
+		torrent.put(Torrent.ATTR_ANNOUNCE_LIST, List.of(
+			List.of("udp://tracker.acgist.com:6969/announce"),
+			List.of("http://tracker.acgist.com/announce")
+		));
+		torrent.put(Torrent.ATTR_COMMENT, "snail-benchmark");
+		torrent.put(Torrent.ATTR_CREATED_BY, "snail");
+		torrent.put(Torrent.ATTR_CREATION_DATE, 1577836800L);
+		torrent.put(Torrent.ATTR_INFO, info);
+		return torrent;
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.acgist.snail.benchmark;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.acgist.snail.utils.BitfieldUtils;
+
+/**
+ * <p>位图转换性能测试</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BitfieldBenchmark {
+
+	/**
+	 * <p>Piece数量</p>
+	 */
+	@Param({ "1024", "65536" })
+	private int pieceSize;
+	
+	private BitSet pieces;
+	private byte[] bitfield;
+	
+	@Setup
+	public void setup() {
+		final Random random = BenchmarkUtils.random();
+		this.pieces = new BitSet(this.pieceSize);
+		for (int index = 0; index < this.pieceSize; index++) {
+			if(random.nextBoolean()) {
+				this.pieces.set(index);
+			}
+		}
+		this.bitfield = BitfieldUtils.toBytes(this.pieceSize, this.pieces);
+	}
+	
+	@Benchmark
+	public byte[] toBytes() {
+		return BitfieldUtils.toBytes(this.pieceSize, this.pieces);
+	}
+	
+	@Benchmark
+	public BitSet toBitSet() {
+		return BitfieldUtils.toBitSet(this.bitfield);
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.acgist.snail.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.acgist.snail.net.torrent.crypt.MSECipher;
+import com.acgist.snail.pojo.bean.InfoHash;
+
+/**
+ * <p>MSE加密性能测试</p>
+ * <p>加密和解密使用相同数据：RC4是流加密，每次调用都会推进密钥流。</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MSECipherBenchmark {
+
+	/**
+	 * <p>数据长度</p>
+	 */
+	@Param({ "1024", "16384" })
+	private int length;
+	
+	private ByteBuffer buffer;
+	private MSECipher sender;
+	private MSECipher recver;
+	
+	@Setup
+	public void setup() {
+		final byte[] secret = BenchmarkUtils.bytes(96);
+		final InfoHash infoHash = InfoHash.newInstance(BenchmarkUtils.bytes(1024));
+		this.sender = MSECipher.newSender(secret, infoHash);
+		this.recver = MSECipher.newRecver(secret, infoHash);
+		this.buffer = ByteBuffer.wrap(BenchmarkUtils.bytes(this.length));
+	}
+	
+	@Benchmark
+	public ByteBuffer encrypt() {
+		this.buffer.clear();
+		this.sender.encrypt(this.buffer);
+		return this.buffer;
+	}
+	
+	@Benchmark
+	public ByteBuffer decrypt() {
+		this.buffer.clear();
+		this.recver.decrypt(this.buffer);
+		return this.buffer;
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.acgist.snail.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.acgist.snail.net.torrent.dht.bootstrap.NodeManager;
+import com.acgist.snail.pojo.session.NodeSession;
+import com.acgist.snail.system.config.DhtConfig;
+
+/**
+ * <p>DHT节点查找性能测试</p>
+ * <p>节点管理器是单例：每组参数使用独立进程（Fork）测试</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NodeManagerBenchmark {
+
+	/**
+	 * <p>查找目标数量</p>
+	 */
+	private static final int TARGET_SIZE = 1024;
+	
+	/**
+	 * <p>节点数量</p>
+	 */
+	@Param({ "1024", "16384" })
+	private int nodeSize;
+	
+	private byte[][] targets;
+	
+	@Setup
+	public void setup() {
+		final Random random = BenchmarkUtils.random();
+		final NodeManager manager = NodeManager.getInstance();
+		for (int index = 0; index < this.nodeSize; index++) {
+			final byte[] nodeId = new byte[DhtConfig.NODE_ID_LENGTH];
+			random.nextBytes(nodeId);
+			manager.newNodeSession(nodeId, "10.0." + (index >> 8 & 0xFF) + "." + (index & 0xFF), 18888);
+		}
+		manager.sortNodes();
+		this.targets = new byte[TARGET_SIZE][DhtConfig.NODE_ID_LENGTH];
+		for (byte[] target : this.targets) {
+			random.nextBytes(target);
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class Cursor {
+	
+		private int index;
+	
+	}
+	
+	@Benchmark
+	public List<NodeSession> findNode(Cursor cursor) {
+		return NodeManager.getInstance().findNode(this.targets[cursor.index++ & (TARGET_SIZE - 1)]);
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.acgist.snail.benchmark;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.acgist.snail.net.torrent.PeerUnpackMessageCodec;
+import com.acgist.snail.net.torrent.peer.bootstrap.PeerSubMessageHandler;
+import com.acgist.snail.pojo.bean.TorrentPiece;
+import com.acgist.snail.system.config.PeerConfig;
+import com.acgist.snail.system.exception.NetException;
+
+/**
+ * <p>Peer消息拆包性能测试</p>
+ * <p>模拟Socket读取：消息按照固定大小分块后依次解码</p>
+ * <p>Peer消息代理已经握手但是没有PeerSession：消息完成拆包和类型分发后直接返回，测试结果只包含拆包和分发。</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PeerMessageBenchmark {
+
+	/**
+	 * <p>Socket读取大小</p>
+	 */
+	private static final int READ_LENGTH = 16 * 1024;
+	/**
+	 * <p>消息数量</p>
+	 */
+	private static final int MESSAGE_SIZE = 256;
+	
+	/**
+	 * <p>消息类型</p>
+	 */
+	@Param({ "HAVE", "PIECE" })
+	private String type;
+	
+	private ByteBuffer[] buffers;
+	private PeerUnpackMessageCodec codec;
+	
+	@Setup
+	public void setup() throws Exception {
+		final PeerSubMessageHandler handler = PeerSubMessageHandler.newInstance();
+		final Field field = PeerSubMessageHandler.class.getDeclaredField("handshakeRecv");
+		field.setAccessible(true);
+		field.setBoolean(handler, true);
+		this.codec = new PeerUnpackMessageCodec(handler);
+		final PeerConfig.Type messageType = PeerConfig.Type.valueOf(this.type);
+		final byte[] slice = BenchmarkUtils.bytes(TorrentPiece.SLICE_LENGTH);
+		final int messageLength = messageType == PeerConfig.Type.PIECE ? 9 + slice.length : 5;
+		final ByteBuffer buffer = ByteBuffer.allocate(MESSAGE_SIZE * (4 + messageLength));
+		for (int index = 0; index < MESSAGE_SIZE; index++) {
+			buffer.putInt(messageLength);
+			buffer.put(messageType.id());
+			buffer.putInt(index);
+			if(messageType == PeerConfig.Type.PIECE) {
+				buffer.putInt(0);
+				buffer.put(slice);
+			}
+		}
+		buffer.flip();
+		final int size = (buffer.limit() + READ_LENGTH - 1) / READ_LENGTH;
+		this.buffers = new ByteBuffer[size];
+		for (int index = 0; index < size; index++) {
+			buffer.position(index * READ_LENGTH);
+			buffer.limit(Math.min(buffer.capacity(), (index + 1) * READ_LENGTH));
+			this.buffers[index] = buffer.slice();
+			buffer.limit(buffer.capacity());
+		}
+	}
+	
+	/**
+	 * <p>解码所有消息</p>
+	 * <p>测试结果单位：消息数量</p>
+	 * 
+	 * @throws NetException 网络异常
+	 */
+	@Benchmark
+	@OperationsPerInvocation(MESSAGE_SIZE)
+	public void decode() throws NetException {
+		for (ByteBuffer buffer : this.buffers) {
+			buffer.rewind();
+			this.codec.decode(buffer);
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.acgist.snail.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.acgist.snail.pojo.bean.TorrentPiece;
+import com.acgist.snail.pojo.session.StatisticsSession;
+
+/**
+ * <p>统计性能测试</p>
+ * <p>统计层级：系统统计 - 任务统计 - Peer统计（不限速）</p>
+ * <p>多线程测试模拟多个Peer同时下载同一个任务</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StatisticsBenchmark {
+
+	private StatisticsSession system;
+	private StatisticsSession task;
+	
+	@Setup
+	public void setup() {
+		this.system = new StatisticsSession();
+		this.task = new StatisticsSession(false, this.system);
+	}
+	
+	/**
+	 * <p>Peer统计</p>
+	 */
+	@State(Scope.Thread)
+	public static class Peer {
+	
+		private StatisticsSession statistics;
+	
+		@Setup
+		public void setup(StatisticsBenchmark benchmark) {
+			this.statistics = new StatisticsSession(false, benchmark.task);
+		}
+	
+	}
+	
+	@Benchmark
+	@Threads(1)
+	public void download(Peer peer) {
+		peer.statistics.download(TorrentPiece.SLICE_LENGTH);
+	}
+	
+	@Benchmark
+	@Threads(4)
+	public void downloadContended(Peer peer) {
+		peer.statistics.download(TorrentPiece.SLICE_LENGTH);
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.acgist.snail.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.acgist.snail.pojo.bean.TorrentPiece;
+import com.acgist.snail.system.PieceHashTable;
+import com.acgist.snail.system.config.SystemConfig;
+import com.acgist.snail.utils.StringUtils;
+
+/**
+ * <p>Piece写入和校验性能测试</p>
+ * <p>每次测试创建Piece并写入所有Slice：和下载时创建Piece的开销一致</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TorrentPieceBenchmark {
+
+	/**
+	 * <p>Piece长度（KB）</p>
+	 */
+	@Param({ "256", "4096" })
+	private int pieceLength;
+	
+	private int length;
+	private PieceHashTable pieceHashTable;
+	private byte[][] slices;
+	private TorrentPiece piece;
+	
+	@Setup
+	public void setup() {
+		this.length = this.pieceLength * SystemConfig.ONE_KB;
+		final byte[] data = BenchmarkUtils.bytes(this.length);
+		this.pieceHashTable = PieceHashTable.newInstance(StringUtils.sha1(data));
+		this.slices = new byte[this.length / TorrentPiece.SLICE_LENGTH][TorrentPiece.SLICE_LENGTH];
+		for (int index = 0; index < this.slices.length; index++) {
+			System.arraycopy(data, index * TorrentPiece.SLICE_LENGTH, this.slices[index], 0, TorrentPiece.SLICE_LENGTH);
+		}
+		this.piece = this.write();
+	}
+	
+	@Benchmark
+	public TorrentPiece write() {
+		final TorrentPiece piece = TorrentPiece.newInstance(this.pieceHashTable, this.length, 0, 0, this.length, true);
+		for (int index = 0; index < this.slices.length; index++) {
+			piece.write(index * TorrentPiece.SLICE_LENGTH, this.slices[index]);
+		}
+		return piece;
+	}
+	
+	@Benchmark
+	public boolean verify() {
+		return this.piece.verify();
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.acgist.snail.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.acgist.snail.net.torrent.bootstrap.TorrentStream;
+import com.acgist.snail.net.torrent.bootstrap.TorrentStream.Allocation;
+import com.acgist.snail.net.torrent.bootstrap.TorrentStreamGroup;
+import com.acgist.snail.pojo.bean.InfoHash;
+import com.acgist.snail.pojo.bean.Torrent;
+import com.acgist.snail.pojo.bean.TorrentPiece;
+import com.acgist.snail.pojo.session.TorrentSession;
+import com.acgist.snail.system.Bitfield;
+import com.acgist.snail.system.config.SystemConfig;
+import com.acgist.snail.system.format.BEncodeDecoder;
+import com.acgist.snail.system.format.BEncodeEncoder;
+import com.acgist.snail.utils.FileUtils;
+
+/**
+ * <p>Piece选择性能测试</p>
+ * <p>单文件种子：已下载一半Piece，Peer拥有一半Piece（随机分布）。</p>
+ * <p>每次选择完成后设置Piece下载失败，保证每次选择的状态相同。</p>
+ * <p>不使用BT任务创建文件流组：BT任务需要数据库和任务信息，这里直接创建文件流组和文件流。</p>
+ * 
+ * @author acgist
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TorrentStreamBenchmark {
+
+	/**
+	 * <p>Piece长度</p>
+	 */
+	private static final long PIECE_LENGTH = 256L * SystemConfig.ONE_KB;
+	
+	/**
+	 * <p>Piece数量</p>
+	 */
+	@Param({ "1024", "16384" })
+	private int pieceSize;
+	/**
+	 * <p>是否使用Peer推荐Piece</p>
+	 */
+	@Param({ "false", "true" })
+	private boolean suggest;
+	
+	private Path folder;
+	private Bitfield peerPieces;
+	private Bitfield suggestPieces;
+	private TorrentStream stream;
+	private TorrentStreamGroup group;
+	
+	@Setup
+	public void setup() throws Exception {
+		final BEncodeDecoder decoder = BEncodeDecoder.newInstance(BEncodeEncoder.encodeMap(BenchmarkUtils.torrent(this.pieceSize, PIECE_LENGTH, 1)));
+		decoder.nextMap();
+		final Torrent torrent = Torrent.valueOf(decoder);
+		final InfoHash infoHash = InfoHash.newInstance(BEncodeEncoder.encodeMap(decoder.getMap(Torrent.ATTR_INFO)));
+		torrent.infoHash(infoHash);
+		final TorrentSession torrentSession = TorrentSession.newInstance(infoHash, torrent);
+		final BitSet selectPieces = new BitSet(this.pieceSize);
+		final List<TorrentStream> streams = new ArrayList<>();
+		final Constructor<TorrentStreamGroup> constructor = TorrentStreamGroup.class.getDeclaredConstructor(BitSet.class, BitSet.class, List.class, TorrentSession.class);
+		constructor.setAccessible(true);
+		this.group = constructor.newInstance(new BitSet(this.pieceSize), selectPieces, streams, torrentSession);
+		this.folder = Files.createTempDirectory("snail-benchmark");
+		this.stream = TorrentStream.newInstance(
+			PIECE_LENGTH, this.folder.resolve("file.bin").toString(), this.pieceSize * PIECE_LENGTH, 0L,
+			new AtomicLong(), this.group,
+			false, selectPieces, new CountDownLatch(1), Allocation.NONE
+		);
+		streams.add(this.stream);
+		// 已下载Piece
+		final Field field = TorrentStream.class.getDeclaredField("pieces");
+		field.setAccessible(true);
+		final BitSet pieces = (BitSet) field.get(this.stream);
+		final Random random = BenchmarkUtils.random();
+		this.peerPieces = Bitfield.newInstance();
+		this.suggestPieces = Bitfield.newInstance();
+		for (int index = 0; index < this.pieceSize; index++) {
+			if(random.nextBoolean()) {
+				pieces.set(index);
+				this.group.done(index);
+			}
+			if(random.nextBoolean()) {
+				this.peerPieces.set(index);
+			}
+		}
+		if(this.suggest) {
+			for (int index = 0; index < 8; index++) {
+				this.suggestPieces.set(random.nextInt(this.pieceSize));
+			}
+		}
+	}
+	
+	@TearDown
+	public void tearDown() {
+		this.stream.release();
+		FileUtils.delete(this.folder.toString());
+	}
+	
+	@Benchmark
+	public TorrentPiece pick() {
+		final TorrentPiece piece = this.group.pick(this.peerPieces, this.suggestPieces);
+		this.group.undone(piece);
+		return piece;
+	}
+
+}